@@ -20,6 +20,9 @@
 -keep class com.photomanagerandroid.MainActivity { *; }
 -keep class com.photomanagerandroid.MainApplication { *; }
 
+# WorkManager通过类名反射实例化后台复检任务
+-keep class com.photomanagerandroid.SecurityAttestationWorker { *; }
+
 # 安全模块方法保护
 -keepclassmembers class com.photomanagerandroid.SecurityModule {
     @com.facebook.react.bridge.ReactMethod <methods>;
@@ -8,6 +8,7 @@ package com.photomanagerandroid;
 
 import android.app.Application;
 import android.content.Context;
+import android.os.Build;
 import android.util.Log;
 
 import com.facebook.react.PackageList;
@@ -18,6 +19,9 @@ import com.facebook.react.ReactPackage;
 import com.facebook.react.config.ReactFeatureFlags;
 import com.facebook.soloader.SoLoader;
 
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
@@ -70,6 +74,12 @@ public class MainApplication extends Application implements ReactApplication {
     public void onCreate() {
         super.onCreate();
         
+        // 🔍 独立安全探针进程只运行SecurityProbeService，不初始化RN运行时
+        if (isSecurityProbeProcess()) {
+            Log.i(TAG, "🔍 Android独立安全探针进程启动");
+            return;
+        }
+        
         Log.i(TAG, "🔐 启动Android企业级安全图片管理系统...");
         
         SoLoader.init(this, /* native exopackage */ false);
@@ -78,6 +88,9 @@ public class MainApplication extends Application implements ReactApplication {
             loadAppMetroConfig();
         }
         
+        // 🕒 调度后台安全复检（WorkManager，无需JS运行时）
+        SecurityAttestationScheduler.ensureScheduledAsync(this);
+        
         Log.i(TAG, "✅ Android安全应用初始化完成");
     }
 
@@ -109,6 +122,23 @@ public class MainApplication extends Application implements ReactApplication {
         }
     }
 
+    /**
+     * 判断当前是否为:security探针进程
+     */
+    private boolean isSecurityProbeProcess() {
+        String processName = null;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
+            processName = Application.getProcessName();
+        } else {
+            try (BufferedReader reader = new BufferedReader(new FileReader("/proc/self/cmdline"))) {
+                processName = reader.readLine();
+            } catch (IOException e) {
+                Log.w(TAG, "⚠️ 读取进程名失败: " + e.getMessage());
+            }
+        }
+        return processName != null && processName.trim().endsWith(":security");
+    }
+
     private static void loadAppMetroConfig() {
         ReactFeatureFlags.useTurboModules = BuildConfig.IS_NEW_ARCHITECTURE_ENABLED;
     }
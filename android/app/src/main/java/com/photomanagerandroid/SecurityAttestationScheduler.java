@@ -0,0 +1,142 @@
+/**
+ * Android后台安全复检调度器 - 企业级安全标准
+ *
+ * 🔒 核心价值：根据设备风险自适应调整后台复检频率
+ *
+ * - 设备干净：长间隔，仅在充电且空闲时执行
+ * - 存在HIGH违规：缩短间隔，电量充足即可执行
+ * - 存在CRITICAL违规：使用WorkManager允许的最短间隔
+ */
+
+package com.photomanagerandroid;
+
+import android.content.Context;
+import android.os.Build;
+import android.util.Log;
+
+import androidx.work.Constraints;
+import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.PeriodicWorkRequest;
+import androidx.work.WorkManager;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class SecurityAttestationScheduler {
+
+    private static final String TAG = "AndroidSecurity";
+    private static final String UNIQUE_WORK_NAME = "security_attestation";
+    private static final String PREFS_NAME = "security_attestation_scheduler";
+    private static final String KEY_SCHEDULED_SEVERITY = "scheduledSeverity";
+
+    // 企业级复检间隔配置
+    private static final long CLEAN_INTERVAL_MINUTES = TimeUnit.HOURS.toMinutes(12);
+    private static final long HIGH_INTERVAL_MINUTES = 60;
+    private static final long CRITICAL_INTERVAL_MINUTES = PeriodicWorkRequest.MIN_PERIODIC_INTERVAL_MILLIS / 60000;
+
+    // 调度涉及磁盘读写和策略编译，统一在后台单线程执行
+    private static final Executor SCHEDULER_EXECUTOR = Executors.newSingleThreadExecutor();
+
+    private SecurityAttestationScheduler() {
+    }
+
+    /**
+     * 应用启动时在后台线程确保复检已调度，避免在Application.onCreate中读写磁盘
+     */
+    public static void ensureScheduledAsync(Context context) {
+        Context appContext = context.getApplicationContext();
+        SCHEDULER_EXECUTOR.execute(() -> {
+            try {
+                ensureScheduled(appContext);
+            } catch (Exception e) {
+                Log.e(TAG, "❌ 后台安全复检调度失败: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 确保后台复检已调度
+     * 风险等级与已调度的一致时保持现有调度，避免每次启动重置计时；
+     * 不一致（含首次调度）时以UPDATE应用新的间隔和约束
+     */
+    public static synchronized void ensureScheduled(Context context) {
+        SecuritySnapshot snapshot = SecuritySnapshot.load(context);
+        String severity = snapshot != null ? snapshot.getHighestSeverity(context) : SecuritySnapshot.SEVERITY_NONE;
+        if (severity.equals(getScheduledSeverity(context))) {
+            enqueue(context, severity, ExistingPeriodicWorkPolicy.KEEP);
+        } else {
+            enqueue(context, severity, ExistingPeriodicWorkPolicy.UPDATE);
+            setScheduledSeverity(context, severity);
+        }
+    }
+
+    /**
+     * 根据最新快照调整复检频率
+     * 风险等级未变化时不重新调度
+     */
+    public static synchronized void reschedule(Context context, SecuritySnapshot snapshot) {
+        String severity = snapshot.getHighestSeverity(context);
+        if (severity.equals(getScheduledSeverity(context))) {
+            return;
+        }
+        // UPDATE不会中断正在执行的Worker，新间隔从下一周期开始生效
+        enqueue(context, severity, ExistingPeriodicWorkPolicy.UPDATE);
+        setScheduledSeverity(context, severity);
+    }
+
+    private static void enqueue(Context context, String severity, ExistingPeriodicWorkPolicy policy) {
+        long intervalMinutes = intervalFor(severity);
+
+        PeriodicWorkRequest request = new PeriodicWorkRequest.Builder(
+                SecurityAttestationWorker.class, intervalMinutes, TimeUnit.MINUTES)
+            .setConstraints(constraintsFor(severity))
+            .build();
+
+        WorkManager.getInstance(context)
+            .enqueueUniquePeriodicWork(UNIQUE_WORK_NAME, policy, request);
+
+        Log.i(TAG, "🕒 后台安全复检已调度: severity=" + severity + ", interval=" + intervalMinutes
+            + "min, policy=" + policy);
+    }
+
+    /**
+     * 最近一次实际生效（UPDATE）的调度风险等级
+     */
+    private static String getScheduledSeverity(Context context) {
+        return context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE)
+            .getString(KEY_SCHEDULED_SEVERITY, null);
+    }
+
+    private static void setScheduledSeverity(Context context, String severity) {
+        context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE)
+            .edit()
+            .putString(KEY_SCHEDULED_SEVERITY, severity)
+            .apply();
+    }
+
+    private static long intervalFor(String severity) {
+        switch (severity) {
+            case SecuritySnapshot.SEVERITY_CRITICAL:
+                return CRITICAL_INTERVAL_MINUTES;
+            case SecuritySnapshot.SEVERITY_HIGH:
+                return HIGH_INTERVAL_MINUTES;
+            default:
+                return CLEAN_INTERVAL_MINUTES;
+        }
+    }
+
+    private static Constraints constraintsFor(String severity) {
+        Constraints.Builder builder = new Constraints.Builder()
+            .setRequiresBatteryNotLow(true);
+
+        // 干净设备不抢占资源：仅在充电且空闲时复检
+        if (SecuritySnapshot.SEVERITY_NONE.equals(severity)) {
+            builder.setRequiresCharging(true);
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+                builder.setRequiresDeviceIdle(true);
+            }
+        }
+        return builder.build();
+    }
+}
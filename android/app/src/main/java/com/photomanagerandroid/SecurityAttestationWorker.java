@@ -0,0 +1,45 @@
+/**
+ * Android后台安全复检任务 - 企业级安全标准
+ *
+ * 🔒 核心价值：无需JS运行时即可持续验证设备安全状态
+ *
+ * 由WorkManager调度，执行原生探针并写入SecuritySnapshot，
+ * 再根据结果调整下一次复检的频率
+ */
+
+package com.photomanagerandroid;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+public class SecurityAttestationWorker extends Worker {
+
+    private static final String TAG = "AndroidSecurity";
+
+    public SecurityAttestationWorker(@NonNull Context context, @NonNull WorkerParameters params) {
+        super(context, params);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        try {
+            Context context = getApplicationContext();
+
+            SecuritySnapshot snapshot = SecuritySnapshot.capture(context);
+            snapshot.save(context);
+            SecurityAttestationScheduler.reschedule(context, snapshot);
+
+            Log.i(TAG, "🔍 后台安全复检完成: " + snapshot.getHighestSeverity(context));
+            return Result.success();
+
+        } catch (Exception e) {
+            Log.e(TAG, "❌ 后台安全复检异常: " + e.getMessage());
+            return Result.retry();
+        }
+    }
+}
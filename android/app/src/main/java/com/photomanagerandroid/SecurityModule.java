@@ -10,16 +10,16 @@
  * - 开发者选项检测
  * - 设备安全信息获取
  * - 应用完整性验证
+ * - 后台复检快照读取
+ * - 安全策略评估与热替换
+ * - 可选的独立:security进程探针及基准测试（基准测试仅调试构建）
  */
 
 package com.photomanagerandroid;
 
 import android.app.Activity;
 import android.content.Context;
-import android.content.pm.ApplicationInfo;
 import android.os.Build;
-import android.provider.Settings;
-import android.telephony.TelephonyManager;
 import android.view.WindowManager;
 import android.util.Log;
 
@@ -30,43 +30,26 @@ import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.bridge.WritableNativeMap;
 
-import java.io.File;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.util.Arrays;
-import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class SecurityModule extends ReactContextBaseJavaModule {
     
     private static final String MODULE_NAME = "SecurityModule";
     private static final String TAG = "AndroidSecurity";
-    
-    // 企业级安全配置
-    private static final List<String> ROOT_INDICATORS = Arrays.asList(
-        "/system/app/Superuser.apk",
-        "/sbin/su",
-        "/system/bin/su",
-        "/system/xbin/su",
-        "/data/local/xbin/su",
-        "/data/local/bin/su",
-        "/system/sd/xbin/su",
-        "/system/bin/failsafe/su",
-        "/data/local/su",
-        "/su/bin/su"
-    );
-    
-    private static final List<String> EMULATOR_INDICATORS = Arrays.asList(
-        "goldfish",
-        "ranchu", 
-        "sdk_gphone",
-        "vbox86",
-        "emulator"
-    );
+    private static final int MAX_BENCHMARK_ITERATIONS = 500;
 
+    // 基准测试耗时较长，不占用原生模块线程，避免阻塞其他安全调用
+    private static final Executor BENCHMARK_EXECUTOR = Executors.newSingleThreadExecutor();
+    
+    private final SecurityProbes probes;
+    private final AtomicBoolean benchmarkRunning = new AtomicBoolean(false);
     private boolean screenshotProtectionEnabled = false;
     
     public SecurityModule(ReactApplicationContext reactContext) {
         super(reactContext);
+        this.probes = new SecurityProbes(reactContext);
         Log.i(TAG, "🔐 Android原生安全模块已初始化 - 企业级标准");
     }
 
@@ -146,64 +129,16 @@ public class SecurityModule extends ReactContextBaseJavaModule {
     public void isEmulator(Promise promise) {
         try {
             WritableMap result = new WritableNativeMap();
-            boolean isEmulator = false;
-            String reason = "";
-
-            // 检测1: Build属性检测
-            String fingerprint = Build.FINGERPRINT;
-            String model = Build.MODEL;
-            String manufacturer = Build.MANUFACTURER;
-            String brand = Build.BRAND;
-            String device = Build.DEVICE;
-            String product = Build.PRODUCT;
-
-            if (fingerprint.startsWith("generic") ||
-                fingerprint.toLowerCase().contains("vbox") ||
-                fingerprint.toLowerCase().contains("test-keys") ||
-                model.contains("google_sdk") ||
-                model.contains("Emulator") ||
-                model.contains("Android SDK built for x86") ||
-                manufacturer.contains("Genymotion") ||
-                (brand.startsWith("generic") && device.startsWith("generic")) ||
-                "google_sdk".equals(product)) {
-                
-                isEmulator = true;
-                reason = "Build属性检测到模拟器特征";
-            }
-
-            // 检测2: 硬件特征检测
-            if (!isEmulator) {
-                for (String indicator : EMULATOR_INDICATORS) {
-                    if (device.toLowerCase().contains(indicator) || 
-                        product.toLowerCase().contains(indicator)) {
-                        isEmulator = true;
-                        reason = "硬件特征检测到模拟器: " + indicator;
-                        break;
-                    }
-                }
-            }
-
-            // 检测3: 电话功能检测
-            if (!isEmulator) {
-                TelephonyManager tm = (TelephonyManager) getReactApplicationContext()
-                    .getSystemService(Context.TELEPHONY_SERVICE);
-                if (tm != null) {
-                    String networkOperator = tm.getNetworkOperatorName();
-                    if ("Android".equals(networkOperator)) {
-                        isEmulator = true;
-                        reason = "网络运营商检测到模拟器";
-                    }
-                }
-            }
+            SecurityProbes.Result probe = probes.detectEmulator();
 
-            result.putBoolean("isEmulator", isEmulator);
-            result.putString("reason", reason.isEmpty() ? "真实设备" : reason);
-            result.putString("fingerprint", fingerprint);
-            result.putString("model", model);
-            result.putString("manufacturer", manufacturer);
+            result.putBoolean("isEmulator", probe.detected);
+            result.putString("reason", probe.reason);
+            result.putString("fingerprint", Build.FINGERPRINT);
+            result.putString("model", Build.MODEL);
+            result.putString("manufacturer", Build.MANUFACTURER);
 
-            if (isEmulator) {
-                Log.w(TAG, "🚨 检测到Android模拟器: " + reason);
+            if (probe.detected) {
+                Log.w(TAG, "🚨 检测到Android模拟器: " + probe.reason);
             } else {
                 Log.i(TAG, "✅ Android真实设备验证通过");
             }
@@ -224,72 +159,14 @@ public class SecurityModule extends ReactContextBaseJavaModule {
     public void isRooted(Promise promise) {
         try {
             WritableMap result = new WritableNativeMap();
-            boolean isRooted = false;
-            String reason = "";
-
-            // 检测1: Su二进制文件检测
-            for (String path : ROOT_INDICATORS) {
-                if (new File(path).exists()) {
-                    isRooted = true;
-                    reason = "发现Root工具: " + path;
-                    break;
-                }
-            }
-
-            // 检测2: 系统属性检测
-            if (!isRooted) {
-                String buildTags = Build.TAGS;
-                if (buildTags != null && buildTags.contains("test-keys")) {
-                    isRooted = true;
-                    reason = "系统使用测试签名";
-                }
-            }
-
-            // 检测3: Root应用检测
-            if (!isRooted) {
-                String[] rootApps = {
-                    "com.noshufou.android.su",
-                    "com.noshufou.android.su.elite",
-                    "eu.chainfire.supersu",
-                    "com.koushikdutta.superuser",
-                    "com.thirdparty.superuser",
-                    "com.yellowes.su"
-                };
-
-                for (String app : rootApps) {
-                    try {
-                        getReactApplicationContext().getPackageManager()
-                            .getPackageInfo(app, 0);
-                        isRooted = true;
-                        reason = "发现Root应用: " + app;
-                        break;
-                    } catch (Exception ignored) {
-                        // 应用不存在，继续检查
-                    }
-                }
-            }
-
-            // 检测4: 执行Su命令检测
-            if (!isRooted) {
-                try {
-                    Process process = Runtime.getRuntime().exec(new String[]{"which", "su"});
-                    BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream()));
-                    if (in.readLine() != null) {
-                        isRooted = true;
-                        reason = "Su命令可执行";
-                    }
-                    in.close();
-                } catch (Exception ignored) {
-                    // Su命令不可用
-                }
-            }
+            SecurityProbes.Result probe = probes.detectRoot();
 
-            result.putBoolean("isRooted", isRooted);
-            result.putString("reason", reason.isEmpty() ? "设备未Root" : reason);
+            result.putBoolean("isRooted", probe.detected);
+            result.putString("reason", probe.reason);
             result.putString("buildTags", Build.TAGS);
 
-            if (isRooted) {
-                Log.w(TAG, "🚨 检测到Android设备已Root: " + reason);
+            if (probe.detected) {
+                Log.w(TAG, "🚨 检测到Android设备已Root: " + probe.reason);
             } else {
                 Log.i(TAG, "✅ Android设备Root检测通过");
             }
@@ -310,42 +187,15 @@ public class SecurityModule extends ReactContextBaseJavaModule {
     public void isDeveloperOptionsEnabled(Promise promise) {
         try {
             WritableMap result = new WritableNativeMap();
-            boolean isDeveloperOptionsEnabled = false;
-            String reason = "";
-
-            Context context = getReactApplicationContext();
-
-            // 检测USB调试
-            boolean usbDebuggingEnabled = Settings.Global.getInt(
-                context.getContentResolver(),
-                Settings.Global.ADB_ENABLED, 0) == 1;
-
-            if (usbDebuggingEnabled) {
-                isDeveloperOptionsEnabled = true;
-                reason = "USB调试已开启";
-            }
+            SecurityProbes.Result probe = probes.detectDeveloperOptions();
 
-            // 检测开发者选项
-            boolean developmentSettingsEnabled = Settings.Global.getInt(
-                context.getContentResolver(),
-                Settings.Global.DEVELOPMENT_SETTINGS_ENABLED, 0) == 1;
-
-            if (developmentSettingsEnabled) {
-                isDeveloperOptionsEnabled = true;
-                if (!reason.isEmpty()) {
-                    reason += ", 开发者选项已开启";
-                } else {
-                    reason = "开发者选项已开启";
-                }
-            }
-
-            result.putBoolean("isDeveloperOptionsEnabled", isDeveloperOptionsEnabled);
-            result.putBoolean("usbDebuggingEnabled", usbDebuggingEnabled);
-            result.putBoolean("developmentSettingsEnabled", developmentSettingsEnabled);
-            result.putString("reason", reason.isEmpty() ? "开发者选项未开启" : reason);
+            result.putBoolean("isDeveloperOptionsEnabled", probe.detected);
+            result.putBoolean("usbDebuggingEnabled", probes.isUsbDebuggingEnabled());
+            result.putBoolean("developmentSettingsEnabled", probes.isDevelopmentSettingsEnabled());
+            result.putString("reason", probe.reason);
 
-            if (isDeveloperOptionsEnabled) {
-                Log.w(TAG, "⚠️ Android开发者选项已开启: " + reason);
+            if (probe.detected) {
+                Log.w(TAG, "⚠️ Android开发者选项已开启: " + probe.reason);
             } else {
                 Log.i(TAG, "✅ Android开发者选项检测通过");
             }
@@ -365,7 +215,6 @@ public class SecurityModule extends ReactContextBaseJavaModule {
     public void getDeviceSecurityInfo(Promise promise) {
         try {
             WritableMap deviceInfo = new WritableNativeMap();
-            Context context = getReactApplicationContext();
 
             // 基本设备信息
             deviceInfo.putString("manufacturer", Build.MANUFACTURER);
@@ -378,9 +227,7 @@ public class SecurityModule extends ReactContextBaseJavaModule {
             deviceInfo.putString("release", Build.VERSION.RELEASE);
 
             // 应用信息
-            ApplicationInfo appInfo = context.getApplicationInfo();
-            boolean isDebuggable = (appInfo.flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0;
-            deviceInfo.putBoolean("isDebuggable", isDebuggable);
+            deviceInfo.putBoolean("isDebuggable", probes.isDebuggable());
 
             // 安全状态
             deviceInfo.putBoolean("screenshotProtectionEnabled", screenshotProtectionEnabled);
@@ -398,6 +245,126 @@ public class SecurityModule extends ReactContextBaseJavaModule {
         }
     }
 
+    /**
+     * 获取后台安全复检快照
+     * 应用回到前台时读取，避免重复执行探针；尚未复检时返回null
+     */
+    @ReactMethod
+    public void getSecuritySnapshot(Promise promise) {
+        try {
+            SecuritySnapshot snapshot = SecuritySnapshot.load(getReactApplicationContext());
+            if (snapshot == null) {
+                promise.resolve(null);
+                return;
+            }
+
+            promise.resolve(snapshotToMap(snapshot));
+
+        } catch (Exception e) {
+            Log.e(TAG, "❌ 读取Android安全快照异常: " + e.getMessage());
+            promise.reject("SECURITY_SNAPSHOT_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * 批量执行全部安全探针并返回快照
+     * 启用SECURITY_PROBES_OUT_OF_PROCESS时由独立的:security进程执行，
+     * 一次Binder调用完成全部探针，结果经共享内存返回
+     */
+    @ReactMethod
+    public void captureSecuritySnapshot(Promise promise) {
+        try {
+            SecuritySnapshot snapshot = SecuritySnapshot.capture(getReactApplicationContext());
+            snapshot.save(getReactApplicationContext());
+            SecurityAttestationScheduler.reschedule(getReactApplicationContext(), snapshot);
+            promise.resolve(snapshotToMap(snapshot));
+
+        } catch (Exception e) {
+            Log.e(TAG, "❌ Android安全探针执行异常: " + e.getMessage());
+            promise.reject("SECURITY_PROBE_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * 安全探针基准测试（仅调试构建）
+     * 交替测量进程内与:security进程两种模式的探针延迟和主进程掉帧
+     * 在独立线程执行，同一时间只允许一次基准测试
+     */
+    @ReactMethod
+    public void benchmarkSecurityProbes(int iterations, Promise promise) {
+        if (!BuildConfig.DEBUG) {
+            // 发布构建中禁止任意JS调用触发大量探针进程
+            promise.reject("SECURITY_PROBE_BENCHMARK_DISABLED", "安全探针基准测试仅在调试构建中可用");
+            return;
+        }
+        if (iterations <= 0 || iterations > MAX_BENCHMARK_ITERATIONS) {
+            promise.reject("INVALID_BENCHMARK_ITERATIONS",
+                "基准测试轮数必须在1到" + MAX_BENCHMARK_ITERATIONS + "之间: " + iterations);
+            return;
+        }
+        if (!benchmarkRunning.compareAndSet(false, true)) {
+            promise.reject("SECURITY_PROBE_BENCHMARK_BUSY", "Android安全探针基准测试正在执行");
+            return;
+        }
+
+        Context context = getReactApplicationContext();
+        BENCHMARK_EXECUTOR.execute(() -> {
+            try {
+                Log.i(TAG, "⏱️ 执行Android安全探针基准测试: " + iterations + "轮");
+
+                SecurityProbeBenchmark.Stats[] stats = SecurityProbeBenchmark.run(context, iterations);
+
+                WritableMap result = new WritableNativeMap();
+                result.putMap("inProcess", benchmarkToMap(stats[SecurityProbeBenchmark.MODE_IN_PROCESS]));
+                result.putMap("outOfProcess", benchmarkToMap(stats[SecurityProbeBenchmark.MODE_OUT_OF_PROCESS]));
+                result.putBoolean("outOfProcessEnabled", BuildConfig.SECURITY_PROBES_OUT_OF_PROCESS);
+
+                promise.resolve(result);
+
+            } catch (Exception e) {
+                Log.e(TAG, "❌ Android安全探针基准测试异常: " + e.getMessage());
+                promise.reject("SECURITY_PROBE_BENCHMARK_ERROR", e.getMessage());
+            } finally {
+                benchmarkRunning.set(false);
+            }
+        });
+    }
+
+    /**
+     * 安装并热替换安全策略
+     * 编译失败时保持当前策略不变
+     */
+    @ReactMethod
+    public void installSecurityPolicy(String policyJson, Promise promise) {
+        try {
+            SecurityPolicy policy = SecurityPolicyEngine.getInstance(getReactApplicationContext())
+                .installPolicy(policyJson);
+            rescheduleAttestation();
+            promise.resolve(policyToMap(policy));
+
+        } catch (Exception e) {
+            Log.e(TAG, "❌ Android安全策略安装失败: " + e.getMessage());
+            promise.reject("SECURITY_POLICY_INSTALL_ERROR", e.getMessage());
+        }
+    }
+
+    /**
+     * 恢复内置默认安全策略
+     */
+    @ReactMethod
+    public void resetSecurityPolicy(Promise promise) {
+        try {
+            SecurityPolicy policy = SecurityPolicyEngine.getInstance(getReactApplicationContext())
+                .resetPolicy();
+            rescheduleAttestation();
+            promise.resolve(policyToMap(policy));
+
+        } catch (Exception e) {
+            Log.e(TAG, "❌ Android安全策略重置失败: " + e.getMessage());
+            promise.reject("SECURITY_POLICY_RESET_ERROR", e.getMessage());
+        }
+    }
+
     /**
      * 企业级Android安全自检
      * 执行完整的安全检查流程
@@ -424,4 +391,73 @@ public class SecurityModule extends ReactContextBaseJavaModule {
             promise.reject("SECURITY_SELF_CHECK_ERROR", e.getMessage());
         }
     }
+
+    /**
+     * 策略变化后按新策略重新评估后台复检频率
+     */
+    private void rescheduleAttestation() {
+        SecuritySnapshot snapshot = SecuritySnapshot.load(getReactApplicationContext());
+        if (snapshot != null) {
+            SecurityAttestationScheduler.reschedule(getReactApplicationContext(), snapshot);
+        }
+    }
+
+    private WritableMap snapshotToMap(SecuritySnapshot snapshot) {
+        WritableMap result = new WritableNativeMap();
+        result.putBoolean("isEmulator", snapshot.emulator);
+        result.putString("emulatorReason", snapshot.emulatorReason);
+        result.putBoolean("isRooted", snapshot.rooted);
+        result.putString("rootReason", snapshot.rootReason);
+        result.putBoolean("isDeveloperOptionsEnabled", snapshot.developerOptionsEnabled);
+        result.putString("developerOptionsReason", snapshot.developerOptionsReason);
+        result.putBoolean("isDebuggable", snapshot.debuggable);
+        result.putString("highestSeverity", snapshot.getHighestSeverity(getReactApplicationContext()));
+        // 毫秒时间戳以double传递，避免超出JS int范围
+        result.putDouble("capturedAt", snapshot.capturedAt);
+        result.putMap("policy", evaluationToMap(snapshot.getProbeMask()));
+        return result;
+    }
+
+    /**
+     * 按当前安全策略评估探针结果掩码
+     * 常数时间查表，返回整体处置动作及各命中探针的处置动作
+     */
+    private WritableMap evaluationToMap(int probeMask) {
+        // 只读取一次，热替换期间整体与各探针的处置来自同一份策略
+        SecurityPolicy policy = SecurityPolicyEngine.getInstance(getReactApplicationContext()).getPolicy();
+
+        WritableMap probeActions = new WritableNativeMap();
+        for (int i = 0; i < SecurityPolicy.PROBE_COUNT; i++) {
+            if ((probeMask & (1 << i)) != 0) {
+                probeActions.putString(SecurityPolicy.probeName(i),
+                    SecurityPolicy.actionName(policy.actionForProbe(probeMask, i)));
+            }
+        }
+
+        WritableMap result = policyToMap(policy);
+        result.putString("decision", SecurityPolicy.actionName(policy.evaluate(probeMask)));
+        result.putMap("probeActions", probeActions);
+        return result;
+    }
+
+    private static WritableMap benchmarkToMap(SecurityProbeBenchmark.Stats stats) {
+        WritableMap result = new WritableNativeMap();
+        result.putInt("iterations", stats.iterations);
+        result.putInt("failures", stats.failures);
+        result.putDouble("averageMs", stats.averageMs);
+        result.putDouble("p50Ms", stats.p50Ms);
+        result.putDouble("p95Ms", stats.p95Ms);
+        result.putDouble("maxMs", stats.maxMs);
+        result.putInt("frames", stats.frames);
+        result.putInt("jankyFrames", stats.jankyFrames);
+        return result;
+    }
+
+    private static WritableMap policyToMap(SecurityPolicy policy) {
+        WritableMap result = new WritableNativeMap();
+        result.putString("policyId", policy.policyId);
+        result.putInt("revision", policy.revision);
+        result.putBoolean("allowEmulator", BuildConfig.ALLOW_EMULATOR);
+        return result;
+    }
 }
@@ -0,0 +1,191 @@
+/**
+ * Android安全策略 - 企业级安全标准
+ *
+ * 🔒 核心价值：将版本化的策略规则编译为扁平决策表
+ *
+ * 探针结果按位组成掩码（模拟器/Root/开发者选项/调试模式）。
+ * 每条规则在其"when"列出的探针全部命中时生效，可表达组合条件，
+ * 例如仅当开发者选项与调试模式同时开启时才阻止访问。
+ * 编译阶段为全部16种掩码预先计算整体处置动作及各探针的处置动作，
+ * 运行时按掩码直接查表，评估为常数时间且不分配对象。
+ *
+ * 规则文件格式（"probe"为单探针规则的简写，等价于只含一项的"when"）：
+ * {
+ *   "version": 1,
+ *   "policyId": "default",
+ *   "revision": 1,
+ *   "rules": [
+ *     { "probe": "emulator", "action": "block_access" },
+ *     { "probe": "root", "action": "block_access" },
+ *     { "probe": "developer_options", "action": "warn_user" },
+ *     { "when": ["developer_options", "debuggable"], "action": "block_access" }
+ *   ]
+ * }
+ */
+
+package com.photomanagerandroid;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+public final class SecurityPolicy {
+
+    // 支持的规则文件格式版本
+    public static final int SCHEMA_VERSION = 1;
+
+    // 探针序号
+    public static final int PROBE_INDEX_EMULATOR = 0;
+    public static final int PROBE_INDEX_ROOT = 1;
+    public static final int PROBE_INDEX_DEVELOPER_OPTIONS = 2;
+    public static final int PROBE_INDEX_DEBUGGABLE = 3;
+    public static final int PROBE_COUNT = 4;
+
+    // 探针结果位
+    public static final int PROBE_EMULATOR = 1 << PROBE_INDEX_EMULATOR;
+    public static final int PROBE_ROOT = 1 << PROBE_INDEX_ROOT;
+    public static final int PROBE_DEVELOPER_OPTIONS = 1 << PROBE_INDEX_DEVELOPER_OPTIONS;
+    public static final int PROBE_DEBUGGABLE = 1 << PROBE_INDEX_DEBUGGABLE;
+    public static final int PROBE_MASK_ALL = (1 << PROBE_COUNT) - 1;
+
+    // 处置动作，数值越大越严格
+    public static final int ACTION_ALLOW = 0;
+    public static final int ACTION_WARN = 1;
+    public static final int ACTION_BLOCK = 2;
+
+    // 决策表项编码：低2位为整体处置，其后每2位依次为各探针的处置
+    private static final int ACTION_BITS = 2;
+    private static final int ACTION_MASK = (1 << ACTION_BITS) - 1;
+
+    private static final String[] PROBE_NAMES = {
+        "emulator", "root", "developer_options", "debuggable"
+    };
+
+    private static final String[] ACTION_NAMES = {
+        "allow", "warn_user", "block_access"
+    };
+
+    public final String policyId;
+    public final int revision;
+
+    private final int[] decisionTable;
+
+    private SecurityPolicy(String policyId, int revision, int[] decisionTable) {
+        this.policyId = policyId;
+        this.revision = revision;
+        this.decisionTable = decisionTable;
+    }
+
+    /**
+     * 解析并编译规则文件
+     * allowEmulator为true时（BuildConfig.ALLOW_EMULATOR）模拟器探针结果不参与任何规则
+     */
+    public static SecurityPolicy compile(String json, boolean allowEmulator) throws JSONException {
+        JSONObject root = new JSONObject(json);
+
+        int version = root.getInt("version");
+        if (version != SCHEMA_VERSION) {
+            throw new IllegalArgumentException("不支持的安全策略版本: " + version);
+        }
+
+        JSONArray rules = root.getJSONArray("rules");
+        int[] ruleMasks = new int[rules.length()];
+        int[] ruleActions = new int[rules.length()];
+        for (int i = 0; i < rules.length(); i++) {
+            JSONObject rule = rules.getJSONObject(i);
+            ruleMasks[i] = parseRuleMask(rule);
+            ruleActions[i] = indexOf(ACTION_NAMES, rule.getString("action"));
+            if (ruleActions[i] < 0) {
+                throw new IllegalArgumentException("未知的处置动作: " + rule.getString("action"));
+            }
+        }
+
+        // 为每个掩码预先计算整体处置及各探针的处置（命中规则中最严格的动作）
+        int[] decisionTable = new int[PROBE_MASK_ALL + 1];
+        for (int mask = 0; mask <= PROBE_MASK_ALL; mask++) {
+            int effectiveMask = allowEmulator ? mask & ~PROBE_EMULATOR : mask;
+            int decision = ACTION_ALLOW;
+            int[] probeActions = new int[PROBE_COUNT];
+
+            for (int r = 0; r < ruleMasks.length; r++) {
+                if ((effectiveMask & ruleMasks[r]) != ruleMasks[r]) {
+                    continue;
+                }
+                decision = Math.max(decision, ruleActions[r]);
+                for (int probe = 0; probe < PROBE_COUNT; probe++) {
+                    if ((ruleMasks[r] & (1 << probe)) != 0) {
+                        probeActions[probe] = Math.max(probeActions[probe], ruleActions[r]);
+                    }
+                }
+            }
+
+            int entry = decision;
+            for (int probe = 0; probe < PROBE_COUNT; probe++) {
+                entry |= probeActions[probe] << (ACTION_BITS * (probe + 1));
+            }
+            decisionTable[mask] = entry;
+        }
+
+        return new SecurityPolicy(
+            root.optString("policyId", "default"),
+            root.optInt("revision", 0),
+            decisionTable
+        );
+    }
+
+    /**
+     * 按探针结果掩码查表得出整体处置动作
+     */
+    public int evaluate(int probeMask) {
+        return decisionTable[probeMask & PROBE_MASK_ALL] & ACTION_MASK;
+    }
+
+    /**
+     * 按探针结果掩码查表得出单个探针的处置动作
+     * 探针未命中或未参与任何生效规则时为ACTION_ALLOW
+     */
+    public int actionForProbe(int probeMask, int probeIndex) {
+        return (decisionTable[probeMask & PROBE_MASK_ALL] >> (ACTION_BITS * (probeIndex + 1))) & ACTION_MASK;
+    }
+
+    public static String probeName(int probeIndex) {
+        return PROBE_NAMES[probeIndex];
+    }
+
+    public static String actionName(int action) {
+        return ACTION_NAMES[action];
+    }
+
+    private static int parseRuleMask(JSONObject rule) throws JSONException {
+        int mask = 0;
+        if (rule.has("when")) {
+            JSONArray when = rule.getJSONArray("when");
+            for (int i = 0; i < when.length(); i++) {
+                mask |= probeBit(when.getString(i));
+            }
+        } else {
+            mask = probeBit(rule.getString("probe"));
+        }
+        if (mask == 0) {
+            throw new IllegalArgumentException("安全策略规则未指定探针");
+        }
+        return mask;
+    }
+
+    private static int probeBit(String name) {
+        int probe = indexOf(PROBE_NAMES, name);
+        if (probe < 0) {
+            throw new IllegalArgumentException("未知的安全探针: " + name);
+        }
+        return 1 << probe;
+    }
+
+    private static int indexOf(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Android安全策略引擎 - 企业级安全标准
+ *
+ * 🔒 核心价值：运行时可热替换的安全策略，无需重新发版
+ *
+ * - 启动时优先加载已安装的租户策略，否则使用内置assets/security_policy.json
+ * - installPolicy()先完整编译再原子替换，评估线程永远看到完整的旧策略或新策略
+ * - 已安装策略持久化到应用私有目录，后台复检任务同样生效
+ */
+
+package com.photomanagerandroid;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SecurityPolicyEngine {
+
+    private static final String TAG = "AndroidSecurity";
+    private static final String DEFAULT_POLICY_ASSET = "security_policy.json";
+    private static final String INSTALLED_POLICY_FILE = "security_policy.json";
+
+    private static volatile SecurityPolicyEngine instance;
+
+    private final Context context;
+    private final AtomicReference<SecurityPolicy> currentPolicy = new AtomicReference<>();
+
+    private SecurityPolicyEngine(Context context) {
+        this.context = context.getApplicationContext();
+        currentPolicy.set(loadInitialPolicy());
+    }
+
+    public static SecurityPolicyEngine getInstance(Context context) {
+        if (instance == null) {
+            synchronized (SecurityPolicyEngine.class) {
+                if (instance == null) {
+                    instance = new SecurityPolicyEngine(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 当前生效的策略
+     */
+    public SecurityPolicy getPolicy() {
+        return currentPolicy.get();
+    }
+
+    /**
+     * 按探针结果掩码评估处置动作
+     */
+    public int evaluate(int probeMask) {
+        return currentPolicy.get().evaluate(probeMask);
+    }
+
+    /**
+     * 安装并热替换安全策略
+     * 编译失败时抛出异常，当前策略保持不变
+     */
+    public synchronized SecurityPolicy installPolicy(String json) throws Exception {
+        SecurityPolicy policy = SecurityPolicy.compile(json, BuildConfig.ALLOW_EMULATOR);
+        writeInstalledPolicy(json);
+        currentPolicy.set(policy);
+
+        Log.i(TAG, "🔄 Android安全策略已热替换: " + policy.policyId + " r" + policy.revision);
+        return policy;
+    }
+
+    /**
+     * 移除租户策略，恢复内置默认策略
+     */
+    public synchronized SecurityPolicy resetPolicy() {
+        File installed = new File(context.getFilesDir(), INSTALLED_POLICY_FILE);
+        if (installed.exists() && !installed.delete()) {
+            Log.w(TAG, "⚠️ 删除已安装的安全策略失败");
+        }
+        SecurityPolicy policy = loadDefaultPolicy();
+        currentPolicy.set(policy);
+
+        Log.i(TAG, "🔄 Android安全策略已恢复默认: " + policy.policyId + " r" + policy.revision);
+        return policy;
+    }
+
+    private SecurityPolicy loadInitialPolicy() {
+        File installed = new File(context.getFilesDir(), INSTALLED_POLICY_FILE);
+        if (installed.exists()) {
+            try (InputStream in = new FileInputStream(installed)) {
+                return SecurityPolicy.compile(readFully(in), BuildConfig.ALLOW_EMULATOR);
+            } catch (Exception e) {
+                Log.e(TAG, "❌ 已安装的安全策略无效，使用默认策略: " + e.getMessage());
+            }
+        }
+        return loadDefaultPolicy();
+    }
+
+    private SecurityPolicy loadDefaultPolicy() {
+        try (InputStream in = context.getAssets().open(DEFAULT_POLICY_ASSET)) {
+            return SecurityPolicy.compile(readFully(in), BuildConfig.ALLOW_EMULATOR);
+        } catch (Exception e) {
+            // 内置策略随APK发布，失败意味着安装包已被篡改
+            throw new IllegalStateException("内置安全策略加载失败: " + e.getMessage(), e);
+        }
+    }
+
+    private void writeInstalledPolicy(String json) throws IOException {
+        File target = new File(context.getFilesDir(), INSTALLED_POLICY_FILE);
+        File temp = new File(context.getFilesDir(), INSTALLED_POLICY_FILE + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+            out.getFD().sync();
+        }
+        if (!temp.renameTo(target)) {
+            throw new IOException("安全策略文件替换失败");
+        }
+    }
+
+    private static String readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * Android安全探针基准测试 - 企业级安全标准
+ *
+ * 🔒 核心价值：量化进程内与:security进程两种探针模式的代价
+ *
+ * - 探针延迟：每轮完整探针的耗时（平均/P50/P95/最大）
+ * - 主进程卡顿：测试期间通过Choreographer统计主线程帧间隔超过1.5帧的次数，
+ *   帧间隔按当前屏幕刷新率计算
+ *
+ * 两种模式按ABBA顺序交替执行，避免先执行的模式为后者预热页缓存和包信息缓存；
+ * 每帧计入回调时正在执行的模式。两种模式各预热一轮，不计入统计。
+ */
+
+package com.photomanagerandroid;
+
+import android.content.Context;
+import android.hardware.display.DisplayManager;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+import android.view.Display;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class SecurityProbeBenchmark {
+
+    public static final int MODE_IN_PROCESS = 0;
+    public static final int MODE_OUT_OF_PROCESS = 1;
+    private static final int MODE_IDLE = -1;
+
+    // 帧间隔超过1.5帧视为一次卡顿
+    private static final double JANK_FRAME_FACTOR = 1.5;
+    private static final float DEFAULT_REFRESH_RATE = 60f;
+    private static final long FIRST_FRAME_TIMEOUT_MS = 1000;
+
+    /**
+     * 单种模式的基准结果
+     */
+    public static class Stats {
+        public final int iterations;
+        public final int failures;
+        public final double averageMs;
+        public final double p50Ms;
+        public final double p95Ms;
+        public final double maxMs;
+        public final int frames;
+        public final int jankyFrames;
+
+        Stats(int iterations, int failures, double[] samplesMs, int frames, int jankyFrames) {
+            this.iterations = iterations;
+            this.failures = failures;
+            this.frames = frames;
+            this.jankyFrames = jankyFrames;
+
+            Arrays.sort(samplesMs);
+            double total = 0;
+            for (double sample : samplesMs) {
+                total += sample;
+            }
+            this.averageMs = samplesMs.length > 0 ? total / samplesMs.length : 0;
+            this.p50Ms = percentile(samplesMs, 0.50);
+            this.p95Ms = percentile(samplesMs, 0.95);
+            this.maxMs = samplesMs.length > 0 ? samplesMs[samplesMs.length - 1] : 0;
+        }
+
+        private static double percentile(double[] sorted, double fraction) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(fraction * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+
+    private SecurityProbeBenchmark() {
+    }
+
+    /**
+     * 执行基准测试，不能在主线程调用
+     * 返回数组按MODE_IN_PROCESS/MODE_OUT_OF_PROCESS索引
+     */
+    public static Stats[] run(Context context, int iterations) throws InterruptedException {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("基准测试轮数必须大于0: " + iterations);
+        }
+
+        // 预热
+        for (int mode : new int[]{MODE_IN_PROCESS, MODE_OUT_OF_PROCESS}) {
+            try {
+                captureOnce(context, mode);
+            } catch (Exception ignored) {
+                // 预热失败在正式测量中计入failures
+            }
+        }
+
+        FrameMonitor monitor = new FrameMonitor(jankThresholdNanos(context));
+        monitor.start();
+        if (!monitor.awaitFirstFrame(FIRST_FRAME_TIMEOUT_MS)) {
+            monitor.stop();
+            throw new IllegalStateException("主线程未产生帧，应用需处于前台才能测量卡顿");
+        }
+
+        double[][] samples = new double[2][iterations];
+        int[] completed = new int[2];
+        int[] failures = new int[2];
+        for (int i = 0; i < iterations; i++) {
+            // ABBA交替：偶数轮先进程内，奇数轮先独立进程
+            int first = (i % 2 == 0) ? MODE_IN_PROCESS : MODE_OUT_OF_PROCESS;
+            for (int mode : new int[]{first, 1 - first}) {
+                monitor.currentMode = mode;
+                long start = System.nanoTime();
+                try {
+                    captureOnce(context, mode);
+                    samples[mode][completed[mode]++] = (System.nanoTime() - start) / 1_000_000.0;
+                } catch (Exception e) {
+                    failures[mode]++;
+                }
+            }
+        }
+        monitor.currentMode = MODE_IDLE;
+        monitor.stop();
+
+        Stats[] result = new Stats[2];
+        for (int mode : new int[]{MODE_IN_PROCESS, MODE_OUT_OF_PROCESS}) {
+            result[mode] = new Stats(iterations, failures[mode],
+                Arrays.copyOf(samples[mode], completed[mode]),
+                monitor.frames[mode], monitor.jankyFrames[mode]);
+        }
+        return result;
+    }
+
+    private static void captureOnce(Context context, int mode) throws Exception {
+        if (mode == MODE_OUT_OF_PROCESS) {
+            SecurityProbeClient.getInstance(context).capture();
+        } else {
+            SecuritySnapshot.captureInProcess(context);
+        }
+    }
+
+    /**
+     * 按默认屏幕的刷新率计算卡顿阈值，90/120Hz屏幕阈值相应缩短
+     */
+    private static long jankThresholdNanos(Context context) {
+        float refreshRate = DEFAULT_REFRESH_RATE;
+        DisplayManager displayManager = (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
+        if (displayManager != null) {
+            Display display = displayManager.getDisplay(Display.DEFAULT_DISPLAY);
+            if (display != null && display.getRefreshRate() > 0) {
+                refreshRate = display.getRefreshRate();
+            }
+        }
+        return (long) (JANK_FRAME_FACTOR * TimeUnit.SECONDS.toNanos(1) / refreshRate);
+    }
+
+    /**
+     * 主线程帧间隔监控，按回调时正在执行的模式分别计数
+     */
+    private static class FrameMonitor implements Choreographer.FrameCallback {
+        private final Handler mainHandler = new Handler(Looper.getMainLooper());
+        private final CountDownLatch firstFrame = new CountDownLatch(1);
+        private final long jankThresholdNanos;
+        private final int[] frames = new int[2];
+        private final int[] jankyFrames = new int[2];
+        private volatile boolean running = false;
+        private volatile int currentMode = MODE_IDLE;
+        private long lastFrameNanos = 0;
+
+        FrameMonitor(long jankThresholdNanos) {
+            this.jankThresholdNanos = jankThresholdNanos;
+        }
+
+        void start() {
+            running = true;
+            mainHandler.post(() -> Choreographer.getInstance().postFrameCallback(this));
+        }
+
+        boolean awaitFirstFrame(long timeoutMs) throws InterruptedException {
+            return firstFrame.await(timeoutMs, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * 停止监控，并等待主线程处理完已排队的帧回调，保证计数对调用线程可见
+         */
+        void stop() throws InterruptedException {
+            running = false;
+            CountDownLatch drained = new CountDownLatch(1);
+            mainHandler.post(drained::countDown);
+            drained.await(FIRST_FRAME_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            if (!running) {
+                return;
+            }
+            firstFrame.countDown();
+
+            int mode = currentMode;
+            if (lastFrameNanos != 0 && mode != MODE_IDLE) {
+                frames[mode]++;
+                if (frameTimeNanos - lastFrameNanos > jankThresholdNanos) {
+                    jankyFrames[mode]++;
+                }
+            }
+            lastFrameNanos = frameTimeNanos;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+}
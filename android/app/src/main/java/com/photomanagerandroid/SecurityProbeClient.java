@@ -0,0 +1,220 @@
+/**
+ * Android独立安全探针客户端 - 企业级安全标准
+ *
+ * 🔒 核心价值：主进程通过Binder驱动:security进程执行探针
+ *
+ * - 首次使用时绑定SecurityProbeService，之后保持绑定
+ * - 一次Binder调用批量执行全部探针，结果从共享内存快照读取
+ * - capture()串行执行（单飞），共享快照在读取期间不会被其他调用覆盖
+ * - Binder调用设有超时，探针卡死时结束:security进程并解绑，调用方不会被永久阻塞
+ * - :security进程崩溃时立即丢弃失效的Binder，下次调用重新连接服务
+ */
+
+package com.photomanagerandroid;
+
+import android.app.ActivityManager;
+import android.content.ComponentName;
+import android.content.Context;
+import android.content.Intent;
+import android.content.ServiceConnection;
+import android.os.IBinder;
+import android.os.Looper;
+import android.os.RemoteException;
+import android.util.Log;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class SecurityProbeClient {
+
+    private static final String TAG = "AndroidSecurity";
+    private static final long BIND_TIMEOUT_MS = 5000;
+    private static final long PROBE_TIMEOUT_MS = 10000;
+    private static final String PROBE_PROCESS_SUFFIX = ":security";
+
+    private static volatile SecurityProbeClient instance;
+
+    private final Context context;
+    // 独立于绑定状态锁，避免主线程的连接回调被等待中的capture()阻塞
+    private final Object captureLock = new Object();
+    // Binder事务在独立线程执行，调用方按超时等待；卡死的事务不会占用后续调用的线程
+    private final ExecutorService transactionExecutor = Executors.newCachedThreadPool();
+    private SecuritySnapshotBuffer snapshotBuffer;
+    private volatile ISecurityProbeService service;
+    private volatile CountDownLatch connectedLatch = new CountDownLatch(1);
+    private boolean bound = false;
+
+    private final ServiceConnection connection = new ServiceConnection() {
+        @Override
+        public void onServiceConnected(ComponentName name, IBinder binder) {
+            onConnected(binder);
+        }
+
+        @Override
+        public void onServiceDisconnected(ComponentName name) {
+            // :security进程已终止，等待系统重启后重新连接
+            clearService(null);
+            Log.w(TAG, "⚠️ Android独立安全探针进程已断开");
+        }
+
+        @Override
+        public void onBindingDied(ComponentName name) {
+            clearService(null);
+            unbind();
+        }
+    };
+
+    private SecurityProbeClient(Context context) {
+        this.context = context.getApplicationContext();
+    }
+
+    public static SecurityProbeClient getInstance(Context context) {
+        if (instance == null) {
+            synchronized (SecurityProbeClient.class) {
+                if (instance == null) {
+                    instance = new SecurityProbeClient(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 在:security进程中执行全部探针并读取共享快照
+     * 会阻塞等待Binder调用，不能在主线程调用；并发调用依次执行
+     */
+    public SecuritySnapshot capture() throws Exception {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            throw new IllegalStateException("不能在主线程执行跨进程安全探针");
+        }
+
+        synchronized (captureLock) {
+            ISecurityProbeService probeService = awaitService();
+            Future<Integer> transaction = transactionExecutor.submit(probeService::runProbes);
+
+            int sequence;
+            try {
+                sequence = transaction.get(PROBE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                transaction.cancel(true);
+                killProbeProcess(probeService);
+                throw new TimeoutException("Android独立安全探针执行超时: " + PROBE_TIMEOUT_MS + "ms");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RemoteException) {
+                    // DeadObjectException等：Binder已失效，不等主线程的断开回调
+                    clearService(probeService.asBinder());
+                }
+                throw cause instanceof Exception ? (Exception) cause : e;
+            }
+            return getSnapshotBuffer().read(sequence);
+        }
+    }
+
+    private ISecurityProbeService awaitService() throws Exception {
+        CountDownLatch latch = bind();
+        ISecurityProbeService connected;
+        if (!latch.await(BIND_TIMEOUT_MS, TimeUnit.MILLISECONDS) || (connected = service) == null) {
+            throw new IllegalStateException("连接Android独立安全探针进程超时");
+        }
+        return connected;
+    }
+
+    private synchronized void onConnected(IBinder binder) {
+        try {
+            // 进程死亡在Binder线程上立即通知，早于主线程的onServiceDisconnected
+            binder.linkToDeath(() -> clearService(binder), 0);
+        } catch (RemoteException e) {
+            // 连接建立前进程已终止，等待系统重启后的下一次连接
+            Log.w(TAG, "⚠️ Android独立安全探针进程连接时已终止");
+            return;
+        }
+        service = ISecurityProbeService.Stub.asInterface(binder);
+        connectedLatch.countDown();
+        Log.i(TAG, "🔗 已连接Android独立安全探针进程");
+    }
+
+    /**
+     * 丢弃失效的服务连接
+     * deadBinder不为null时仅在其仍是当前连接时清除，避免迟到的死亡通知清掉重连后的新连接
+     */
+    private synchronized void clearService(IBinder deadBinder) {
+        if (service == null) {
+            return;
+        }
+        if (deadBinder != null && service.asBinder() != deadBinder) {
+            return;
+        }
+        service = null;
+        connectedLatch = new CountDownLatch(1);
+    }
+
+    /**
+     * 探针超时：结束:security进程（与主进程同UID，可直接kill）并解绑，
+     * 卡住的Binder事务随之以DeadObjectException返回
+     */
+    private void killProbeProcess(ISecurityProbeService probeService) {
+        int pid = findProbeProcessPid();
+        if (pid > 0) {
+            android.os.Process.killProcess(pid);
+            Log.w(TAG, "⚠️ Android独立安全探针执行超时，已结束:security进程: pid=" + pid);
+        } else {
+            Log.w(TAG, "⚠️ Android独立安全探针执行超时，未找到:security进程");
+        }
+        clearService(probeService.asBinder());
+        unbind();
+    }
+
+    private int findProbeProcessPid() {
+        ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        if (activityManager == null) {
+            return -1;
+        }
+        List<ActivityManager.RunningAppProcessInfo> processes = activityManager.getRunningAppProcesses();
+        if (processes == null) {
+            return -1;
+        }
+        String processName = context.getPackageName() + PROBE_PROCESS_SUFFIX;
+        for (ActivityManager.RunningAppProcessInfo process : processes) {
+            if (processName.equals(process.processName)) {
+                return process.pid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 确保已绑定，返回本次应等待的连接信号
+     */
+    private synchronized CountDownLatch bind() {
+        if (!bound) {
+            Intent intent = new Intent(context, SecurityProbeService.class);
+            bound = context.bindService(intent, connection, Context.BIND_AUTO_CREATE);
+            if (!bound) {
+                Log.e(TAG, "❌ 绑定Android独立安全探针进程失败");
+            }
+        }
+        return connectedLatch;
+    }
+
+    private synchronized void unbind() {
+        if (bound) {
+            context.unbindService(connection);
+            bound = false;
+        }
+    }
+
+    private synchronized SecuritySnapshotBuffer getSnapshotBuffer() throws IOException {
+        if (snapshotBuffer == null) {
+            snapshotBuffer = SecuritySnapshotBuffer.open(context);
+        }
+        return snapshotBuffer;
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Android独立安全探针服务 - 企业级安全标准
+ *
+ * 🔒 核心价值：在独立的:security进程中执行安全探针
+ *
+ * 耗时的Runtime.exec、大量PackageManager查询等不再与RN线程争用CPU和堆内存，
+ * 探针崩溃也只会终止:security进程，不会影响主进程中的图片查看。
+ */
+
+package com.photomanagerandroid;
+
+import android.app.Service;
+import android.content.Intent;
+import android.os.IBinder;
+import android.util.Log;
+
+public class SecurityProbeService extends Service {
+
+    private static final String TAG = "AndroidSecurity";
+
+    private volatile SecuritySnapshotBuffer snapshotBuffer;
+
+    private final ISecurityProbeService.Stub binder = new ISecurityProbeService.Stub() {
+        @Override
+        public int runProbes() {
+            if (snapshotBuffer == null) {
+                // 异常经Binder传回主进程，由调用方按探针失败处理
+                throw new IllegalStateException("共享安全快照不可用");
+            }
+            SecuritySnapshot snapshot = SecuritySnapshot.captureInProcess(SecurityProbeService.this);
+            return snapshotBuffer.write(snapshot);
+        }
+    };
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        try {
+            snapshotBuffer = SecuritySnapshotBuffer.open(this);
+            Log.i(TAG, "🔐 Android独立安全探针进程已启动");
+        } catch (Exception e) {
+            // 不在onCreate中抛出，否则BIND_AUTO_CREATE会反复重启:security进程
+            Log.e(TAG, "❌ 共享安全快照映射失败: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public IBinder onBind(Intent intent) {
+        return binder;
+    }
+}
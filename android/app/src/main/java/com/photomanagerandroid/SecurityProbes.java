@@ -0,0 +1,218 @@
+/**
+ * Android原生安全探针 - 企业级安全标准
+ *
+ * 🔒 核心价值：不依赖React Native运行时的安全检测实现
+ *
+ * SecurityModule（前台JS调用）与SecurityAttestationWorker（后台WorkManager调度）
+ * 共用同一套检测逻辑，确保前后台结果一致：
+ * - 模拟器检测
+ * - Root检测
+ * - 开发者选项检测
+ * - 应用调试状态检测
+ */
+
+package com.photomanagerandroid;
+
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.os.Build;
+import android.provider.Settings;
+import android.telephony.TelephonyManager;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.List;
+
+public class SecurityProbes {
+
+    // 企业级安全配置
+    private static final List<String> ROOT_INDICATORS = Arrays.asList(
+        "/system/app/Superuser.apk",
+        "/sbin/su",
+        "/system/bin/su",
+        "/system/xbin/su",
+        "/data/local/xbin/su",
+        "/data/local/bin/su",
+        "/system/sd/xbin/su",
+        "/system/bin/failsafe/su",
+        "/data/local/su",
+        "/su/bin/su"
+    );
+
+    private static final List<String> EMULATOR_INDICATORS = Arrays.asList(
+        "goldfish",
+        "ranchu",
+        "sdk_gphone",
+        "vbox86",
+        "emulator"
+    );
+
+    private static final String[] ROOT_APPS = {
+        "com.noshufou.android.su",
+        "com.noshufou.android.su.elite",
+        "eu.chainfire.supersu",
+        "com.koushikdutta.superuser",
+        "com.thirdparty.superuser",
+        "com.yellowes.su"
+    };
+
+    /**
+     * 单项探针结果
+     */
+    public static class Result {
+        public final boolean detected;
+        public final String reason;
+
+        Result(boolean detected, String reason) {
+            this.detected = detected;
+            this.reason = reason;
+        }
+    }
+
+    private final Context context;
+
+    public SecurityProbes(Context context) {
+        this.context = context.getApplicationContext();
+    }
+
+    /**
+     * 检测Android设备是否为模拟器
+     * 使用多重检测机制确保准确性
+     */
+    public Result detectEmulator() {
+        // 检测1: Build属性检测
+        String fingerprint = Build.FINGERPRINT;
+        String model = Build.MODEL;
+        String manufacturer = Build.MANUFACTURER;
+        String brand = Build.BRAND;
+        String device = Build.DEVICE;
+        String product = Build.PRODUCT;
+
+        if (fingerprint.startsWith("generic") ||
+            fingerprint.toLowerCase().contains("vbox") ||
+            fingerprint.toLowerCase().contains("test-keys") ||
+            model.contains("google_sdk") ||
+            model.contains("Emulator") ||
+            model.contains("Android SDK built for x86") ||
+            manufacturer.contains("Genymotion") ||
+            (brand.startsWith("generic") && device.startsWith("generic")) ||
+            "google_sdk".equals(product)) {
+            return new Result(true, "Build属性检测到模拟器特征");
+        }
+
+        // 检测2: 硬件特征检测
+        for (String indicator : EMULATOR_INDICATORS) {
+            if (device.toLowerCase().contains(indicator) ||
+                product.toLowerCase().contains(indicator)) {
+                return new Result(true, "硬件特征检测到模拟器: " + indicator);
+            }
+        }
+
+        // 检测3: 电话功能检测
+        TelephonyManager tm = (TelephonyManager) context.getSystemService(Context.TELEPHONY_SERVICE);
+        if (tm != null) {
+            String networkOperator = tm.getNetworkOperatorName();
+            if ("Android".equals(networkOperator)) {
+                return new Result(true, "网络运营商检测到模拟器");
+            }
+        }
+
+        return new Result(false, "真实设备");
+    }
+
+    /**
+     * 检测Android设备是否已Root
+     * 使用多重检测机制确保准确性
+     */
+    public Result detectRoot() {
+        // 检测1: Su二进制文件检测
+        for (String path : ROOT_INDICATORS) {
+            if (new File(path).exists()) {
+                return new Result(true, "发现Root工具: " + path);
+            }
+        }
+
+        // 检测2: 系统属性检测
+        String buildTags = Build.TAGS;
+        if (buildTags != null && buildTags.contains("test-keys")) {
+            return new Result(true, "系统使用测试签名");
+        }
+
+        // 检测3: Root应用检测
+        for (String app : ROOT_APPS) {
+            try {
+                context.getPackageManager().getPackageInfo(app, 0);
+                return new Result(true, "发现Root应用: " + app);
+            } catch (Exception ignored) {
+                // 应用不存在，继续检查
+            }
+        }
+
+        // 检测4: 执行Su命令检测
+        Process process = null;
+        try {
+            process = Runtime.getRuntime().exec(new String[]{"which", "su"});
+            BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream()));
+            boolean found = in.readLine() != null;
+            in.close();
+            if (found) {
+                return new Result(true, "Su命令可执行");
+            }
+        } catch (Exception ignored) {
+            // Su命令不可用
+        } finally {
+            // 及时回收子进程，避免残留僵尸进程
+            if (process != null) {
+                process.destroy();
+            }
+        }
+
+        return new Result(false, "设备未Root");
+    }
+
+    /**
+     * 检测USB调试是否开启
+     */
+    public boolean isUsbDebuggingEnabled() {
+        return Settings.Global.getInt(
+            context.getContentResolver(),
+            Settings.Global.ADB_ENABLED, 0) == 1;
+    }
+
+    /**
+     * 检测开发者选项是否开启
+     */
+    public boolean isDevelopmentSettingsEnabled() {
+        return Settings.Global.getInt(
+            context.getContentResolver(),
+            Settings.Global.DEVELOPMENT_SETTINGS_ENABLED, 0) == 1;
+    }
+
+    /**
+     * 检测Android开发者选项是否开启
+     * 检查USB调试和开发者模式
+     */
+    public Result detectDeveloperOptions() {
+        boolean usbDebuggingEnabled = isUsbDebuggingEnabled();
+        boolean developmentSettingsEnabled = isDevelopmentSettingsEnabled();
+
+        if (usbDebuggingEnabled && developmentSettingsEnabled) {
+            return new Result(true, "USB调试已开启, 开发者选项已开启");
+        } else if (usbDebuggingEnabled) {
+            return new Result(true, "USB调试已开启");
+        } else if (developmentSettingsEnabled) {
+            return new Result(true, "开发者选项已开启");
+        }
+        return new Result(false, "开发者选项未开启");
+    }
+
+    /**
+     * 检测应用是否处于调试模式
+     */
+    public boolean isDebuggable() {
+        ApplicationInfo appInfo = context.getApplicationInfo();
+        return (appInfo.flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0;
+    }
+}
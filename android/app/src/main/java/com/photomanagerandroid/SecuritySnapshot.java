@@ -0,0 +1,147 @@
+/**
+ * Android安全快照 - 企业级安全标准
+ *
+ * 🔒 核心价值：后台复检结果的共享存储
+ *
+ * SecurityAttestationWorker执行探针后写入快照，
+ * 应用回到前台时由SecurityModule直接读取，无需重新探测
+ */
+
+package com.photomanagerandroid;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+public class SecuritySnapshot {
+
+    private static final String PREFS_NAME = "security_attestation_snapshot";
+
+    // 违规严重程度（与JS端ANDROID_VIOLATION_SEVERITY保持一致）
+    public static final String SEVERITY_NONE = "none";
+    public static final String SEVERITY_HIGH = "high";
+    public static final String SEVERITY_CRITICAL = "critical";
+
+    public final boolean emulator;
+    public final String emulatorReason;
+    public final boolean rooted;
+    public final String rootReason;
+    public final boolean developerOptionsEnabled;
+    public final String developerOptionsReason;
+    public final boolean debuggable;
+    public final long capturedAt;
+
+    SecuritySnapshot(boolean emulator, String emulatorReason,
+                     boolean rooted, String rootReason,
+                     boolean developerOptionsEnabled, String developerOptionsReason,
+                     boolean debuggable, long capturedAt) {
+        this.emulator = emulator;
+        this.emulatorReason = emulatorReason;
+        this.rooted = rooted;
+        this.rootReason = rootReason;
+        this.developerOptionsEnabled = developerOptionsEnabled;
+        this.developerOptionsReason = developerOptionsReason;
+        this.debuggable = debuggable;
+        this.capturedAt = capturedAt;
+    }
+
+    /**
+     * 执行全部原生探针并生成快照
+     * 启用SECURITY_PROBES_OUT_OF_PROCESS时在独立的:security进程中执行
+     */
+    public static SecuritySnapshot capture(Context context) throws Exception {
+        if (BuildConfig.SECURITY_PROBES_OUT_OF_PROCESS) {
+            return SecurityProbeClient.getInstance(context).capture();
+        }
+        return captureInProcess(context);
+    }
+
+    /**
+     * 在当前进程中执行全部原生探针并生成快照
+     */
+    public static SecuritySnapshot captureInProcess(Context context) {
+        SecurityProbes probes = new SecurityProbes(context);
+        SecurityProbes.Result emulatorResult = probes.detectEmulator();
+        SecurityProbes.Result rootResult = probes.detectRoot();
+        SecurityProbes.Result devOptionsResult = probes.detectDeveloperOptions();
+
+        return new SecuritySnapshot(
+            emulatorResult.detected, emulatorResult.reason,
+            rootResult.detected, rootResult.reason,
+            devOptionsResult.detected, devOptionsResult.reason,
+            probes.isDebuggable(),
+            System.currentTimeMillis()
+        );
+    }
+
+    /**
+     * 读取最近一次快照，尚未执行过复检时返回null
+     */
+    public static SecuritySnapshot load(Context context) {
+        SharedPreferences prefs = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        long capturedAt = prefs.getLong("capturedAt", 0L);
+        if (capturedAt == 0L) {
+            return null;
+        }
+
+        return new SecuritySnapshot(
+            prefs.getBoolean("emulator", false), prefs.getString("emulatorReason", ""),
+            prefs.getBoolean("rooted", false), prefs.getString("rootReason", ""),
+            prefs.getBoolean("developerOptionsEnabled", false), prefs.getString("developerOptionsReason", ""),
+            prefs.getBoolean("debuggable", false),
+            capturedAt
+        );
+    }
+
+    /**
+     * 持久化快照，供下次回到前台时读取
+     * 同步写入，确保Worker结束后进程被回收也不会丢失结果
+     */
+    public void save(Context context) {
+        context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE)
+            .edit()
+            .putBoolean("emulator", emulator)
+            .putString("emulatorReason", emulatorReason)
+            .putBoolean("rooted", rooted)
+            .putString("rootReason", rootReason)
+            .putBoolean("developerOptionsEnabled", developerOptionsEnabled)
+            .putString("developerOptionsReason", developerOptionsReason)
+            .putBoolean("debuggable", debuggable)
+            .putLong("capturedAt", capturedAt)
+            .commit();
+    }
+
+    /**
+     * 探针结果掩码，用于安全策略查表
+     */
+    public int getProbeMask() {
+        int mask = 0;
+        if (emulator) {
+            mask |= SecurityPolicy.PROBE_EMULATOR;
+        }
+        if (rooted) {
+            mask |= SecurityPolicy.PROBE_ROOT;
+        }
+        if (developerOptionsEnabled) {
+            mask |= SecurityPolicy.PROBE_DEVELOPER_OPTIONS;
+        }
+        if (debuggable) {
+            mask |= SecurityPolicy.PROBE_DEBUGGABLE;
+        }
+        return mask;
+    }
+
+    /**
+     * 快照中最高的违规严重程度，由当前安全策略决定
+     * block_access为CRITICAL，warn_user为HIGH，allow为NONE
+     */
+    public String getHighestSeverity(Context context) {
+        switch (SecurityPolicyEngine.getInstance(context).evaluate(getProbeMask())) {
+            case SecurityPolicy.ACTION_BLOCK:
+                return SEVERITY_CRITICAL;
+            case SecurityPolicy.ACTION_WARN:
+                return SEVERITY_HIGH;
+            default:
+                return SEVERITY_NONE;
+        }
+    }
+}
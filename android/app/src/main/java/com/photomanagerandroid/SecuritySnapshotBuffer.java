@@ -0,0 +1,119 @@
+/**
+ * Android安全快照共享内存 - 企业级安全标准
+ *
+ * 🔒 核心价值：在:security进程与主进程之间零拷贝传递探针结果
+ *
+ * 两个进程以MAP_SHARED方式映射应用私有目录下的同一文件（兼容API 21）。
+ *
+ * 并发约定（MappedByteBuffer的读写没有内存屏障，不能依赖无锁读取）：
+ * - 写入只发生在:security进程的runProbes() Binder调用内，且由本类同步
+ * - 主进程只在该Binder调用返回后读取；Binder事务经过内核，
+ *   保证写入对返回后的读取可见
+ * - SecurityProbeClient.capture()串行执行，读取期间不会有新的写入
+ * 序号仅用于校验读到的是本次调用写入的快照。
+ *
+ * 内存布局：
+ *   [0]   int  序号
+ *   [4]   int  探针结果掩码（SecurityPolicy.PROBE_*）
+ *   [8]   long 采集时间
+ *   [16]  3 × 原因槽位（short长度 + UTF-8字节），依次为模拟器/Root/开发者选项
+ */
+
+package com.photomanagerandroid;
+
+import android.content.Context;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+public class SecuritySnapshotBuffer {
+
+    private static final String BUFFER_FILE = "security_snapshot.shm";
+
+    private static final int OFFSET_SEQUENCE = 0;
+    private static final int OFFSET_PROBE_MASK = 4;
+    private static final int OFFSET_CAPTURED_AT = 8;
+    private static final int OFFSET_REASONS = 16;
+    private static final int REASON_SLOT_SIZE = 256;
+    private static final int REASON_SLOT_COUNT = 3;
+    private static final int BUFFER_SIZE = OFFSET_REASONS + REASON_SLOT_SIZE * REASON_SLOT_COUNT;
+
+    private final MappedByteBuffer buffer;
+
+    private SecuritySnapshotBuffer(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * 映射共享快照文件，读写双方使用相同的文件
+     */
+    public static SecuritySnapshotBuffer open(Context context) throws IOException {
+        File file = new File(context.getFilesDir(), BUFFER_FILE);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+             FileChannel channel = raf.getChannel()) {
+            // 映射在通道关闭后依然有效
+            return new SecuritySnapshotBuffer(
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, BUFFER_SIZE));
+        }
+    }
+
+    /**
+     * 写入快照（仅:security进程在Binder调用内执行），返回写入后的序号
+     */
+    public synchronized int write(SecuritySnapshot snapshot) {
+        int sequence = buffer.getInt(OFFSET_SEQUENCE) + 1;
+
+        buffer.putInt(OFFSET_PROBE_MASK, snapshot.getProbeMask());
+        buffer.putLong(OFFSET_CAPTURED_AT, snapshot.capturedAt);
+        writeReason(0, snapshot.emulatorReason);
+        writeReason(1, snapshot.rootReason);
+        writeReason(2, snapshot.developerOptionsReason);
+        buffer.putInt(OFFSET_SEQUENCE, sequence);
+
+        return sequence;
+    }
+
+    /**
+     * 读取快照（主进程在runProbes()返回后调用）
+     * expectedSequence为Binder返回的序号，不一致说明快照不是本次调用写入的
+     */
+    public SecuritySnapshot read(int expectedSequence) throws IOException {
+        int sequence = buffer.getInt(OFFSET_SEQUENCE);
+        if (sequence != expectedSequence) {
+            throw new IOException("共享安全快照序号不一致: " + sequence + " != " + expectedSequence);
+        }
+
+        int probeMask = buffer.getInt(OFFSET_PROBE_MASK);
+        return new SecuritySnapshot(
+            (probeMask & SecurityPolicy.PROBE_EMULATOR) != 0, readReason(0),
+            (probeMask & SecurityPolicy.PROBE_ROOT) != 0, readReason(1),
+            (probeMask & SecurityPolicy.PROBE_DEVELOPER_OPTIONS) != 0, readReason(2),
+            (probeMask & SecurityPolicy.PROBE_DEBUGGABLE) != 0,
+            buffer.getLong(OFFSET_CAPTURED_AT)
+        );
+    }
+
+    private void writeReason(int slot, String reason) {
+        byte[] bytes = reason.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, REASON_SLOT_SIZE - 2);
+        int offset = OFFSET_REASONS + slot * REASON_SLOT_SIZE;
+        buffer.putShort(offset, (short) length);
+        for (int i = 0; i < length; i++) {
+            buffer.put(offset + 2 + i, bytes[i]);
+        }
+    }
+
+    private String readReason(int slot) {
+        int offset = OFFSET_REASONS + slot * REASON_SLOT_SIZE;
+        int length = Math.min(buffer.getShort(offset), REASON_SLOT_SIZE - 2);
+        byte[] bytes = new byte[Math.max(length, 0)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(offset + 2 + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -15,7 +15,8 @@ import {
   Alert,
   StatusBar,
   RefreshControl,
-  Dimensions
+  Dimensions,
+  AppState
 } from 'react-native';
 import { 
   Card, 
@@ -46,12 +47,25 @@ export default function HomeScreen({ navigation }) {
     loadPhotos();
     checkSecurityStatus();
     
-    // 定期检查Android安全状态
-    const securityInterval = setInterval(checkSecurityStatus, 30000); // 每30秒检查一次
+    // 回到前台时读取后台复检快照（由原生WorkManager定期写入），不在前台轮询探测
+    const appStateSubscription = AppState.addEventListener('change', handleAppStateChange);
     
-    return () => clearInterval(securityInterval);
+    return () => appStateSubscription.remove();
   }, []);
 
+  const handleAppStateChange = async (nextAppState) => {
+    if (nextAppState !== 'active') {
+      return;
+    }
+
+    try {
+      await SecurityManager.refreshFromSnapshot();
+    } catch (error) {
+      console.error('❌ 读取Android安全快照失败:', error);
+    }
+    await checkSecurityStatus();
+  };
+
   const checkSecurityStatus = async () => {
     try {
       const summary = SecurityManager.getSecuritySummary();
@@ -20,7 +20,7 @@ import {
 import { TextInput, Button, Card, Title, Paragraph } from 'react-native-paper';
 import { useDispatch } from 'react-redux';
 import { login } from '../store/authSlice';
-import SecurityManager from '../security';
+import SecurityManager, { ANDROID_POLICY_ACTIONS } from '../security';
 
 export default function LoginScreen({ navigation, route }) {
   const [phone, setPhone] = useState('');
@@ -87,8 +87,8 @@ export default function LoginScreen({ navigation, route }) {
       const securityChecks = await SecurityManager.performSecurityChecks();
       
       // 检查是否有关键安全违规
-      const criticalViolations = securityChecks.filter(v => v.severity === 'critical');
-      if (criticalViolations.length > 0) {
+      const blockedViolations = securityChecks.filter(v => v.action === ANDROID_POLICY_ACTIONS.BLOCK);
+      if (blockedViolations.length > 0) {
         Alert.alert(
           '🔒 Android安全检查失败',
           '检测到关键安全违规，无法登录。请在安全的Android设备上使用应用。',
@@ -29,7 +29,7 @@ import {
   Portal
 } from 'react-native-paper';
 import { useSelector } from 'react-redux';
-import SecurityManager from '../security';
+import SecurityManager, { ANDROID_POLICY_ACTIONS } from '../security';
 
 export default function UserManageScreen({ navigation }) {
   const [users, setUsers] = useState([]);
@@ -77,9 +77,9 @@ export default function UserManageScreen({ navigation }) {
 
       // 管理员操作需要额外安全检查
       const securityChecks = await SecurityManager.performSecurityChecks();
-      const criticalViolations = securityChecks.filter(v => v.severity === 'critical');
+      const blockedViolations = securityChecks.filter(v => v.action === ANDROID_POLICY_ACTIONS.BLOCK);
       
-      if (criticalViolations.length > 0) {
+      if (blockedViolations.length > 0) {
         Alert.alert(
           '🔒 安全检查失败',
           'Android安全检查发现关键违规，无法进行用户管理操作。',
@@ -167,9 +167,9 @@ export default function UserManageScreen({ navigation }) {
 
       // 🔒 执行Android安全检查
       const securityChecks = await SecurityManager.performSecurityChecks();
-      const criticalViolations = securityChecks.filter(v => v.severity === 'critical');
+      const blockedViolations = securityChecks.filter(v => v.action === ANDROID_POLICY_ACTIONS.BLOCK);
       
-      if (criticalViolations.length > 0) {
+      if (blockedViolations.length > 0) {
         Alert.alert('🔒 安全检查失败', '检测到安全违规，无法添加用户');
         return;
       }
@@ -219,9 +219,9 @@ export default function UserManageScreen({ navigation }) {
             try {
               // 🔒 执行Android安全检查
               const securityChecks = await SecurityManager.performSecurityChecks();
-              const criticalViolations = securityChecks.filter(v => v.severity === 'critical');
+              const blockedViolations = securityChecks.filter(v => v.action === ANDROID_POLICY_ACTIONS.BLOCK);
               
-              if (criticalViolations.length > 0) {
+              if (blockedViolations.length > 0) {
                 Alert.alert('🔒 安全检查失败', '检测到安全违规，无法删除用户');
                 return;
               }
@@ -13,7 +13,9 @@ import {
   SECURITY_EVENTS, 
   SECURITY_LEVELS,
   ANDROID_VIOLATION_SEVERITY,
-  ANDROID_SECURITY_CHECKS
+  ANDROID_SECURITY_CHECKS,
+  ANDROID_POLICY_ACTIONS,
+  ANDROID_POLICY_PROBES
 } from './SecurityInterface';
 
 const { SecurityModule } = NativeModules;
@@ -29,9 +31,10 @@ export class AndroidSecurity extends SecurityInterface {
     this.deviceInfo = null;
     this.securityLevel = SECURITY_LEVELS.ENTERPRISE; // 企业级默认最高安全级别
     this.violationCount = 0;
-    this.maxViolations = 1; // 企业级零容忍政策
+    this.activePolicy = null; // 违规处置由原生安全策略决定
     this.initializationTime = null;
     this.lastSecurityCheck = null;
+    this.lastSnapshotAt = 0;
   }
 
   /**
@@ -297,7 +300,7 @@ export class AndroidSecurity extends SecurityInterface {
 
   /**
    * 执行完整的Android企业级安全检查
-   * 🔒 企业级安全标准，零容忍政策
+   * 🔒 企业级安全标准，违规处置由原生安全策略决定
    */
   async performSecurityChecks() {
     const violations = [];
@@ -306,62 +309,13 @@ export class AndroidSecurity extends SecurityInterface {
     try {
       console.log('🔍 执行Android企业级安全检查...');
 
-      // 1. Android模拟器检测
-      const emulatorResult = await this.isEmulator();
-      if (emulatorResult.isEmulator) {
-        violations.push({
-          type: ANDROID_SECURITY_CHECKS.EMULATOR,
-          severity: ANDROID_VIOLATION_SEVERITY.CRITICAL,
-          failed: true,
-          reason: emulatorResult.reason,
-          action: 'block_access',
-          platform: 'android'
-        });
-      }
-
-      // 2. Android Root检测
-      const rootResult = await this.isRooted();
-      if (rootResult.isRooted) {
-        violations.push({
-          type: ANDROID_SECURITY_CHECKS.ROOT,
-          severity: ANDROID_VIOLATION_SEVERITY.CRITICAL,
-          failed: true,
-          reason: rootResult.reason,
-          action: 'block_access',
-          platform: 'android'
-        });
-      }
-
-      // 3. Android开发者选项检测
-      const devOptionsResult = await this.isDeveloperOptionsEnabled();
-      if (devOptionsResult.isDeveloperOptionsEnabled) {
-        violations.push({
-          type: ANDROID_SECURITY_CHECKS.DEVELOPER_OPTIONS,
-          severity: ANDROID_VIOLATION_SEVERITY.HIGH,
-          failed: true,
-          reason: 'Android developer options are enabled',
-          action: 'warn_user',
-          platform: 'android'
-        });
-      }
-
-      // 4. Android应用完整性检查
-      if (this.deviceInfo && this.deviceInfo.isDebuggable) {
-        violations.push({
-          type: ANDROID_SECURITY_CHECKS.APP_INTEGRITY,
-          severity: ANDROID_VIOLATION_SEVERITY.HIGH,
-          failed: true,
-          reason: 'Android application is in debug mode',
-          action: 'warn_user',
-          platform: 'android'
-        });
-      }
+      // 一次原生调用批量执行全部探针（可配置在独立的:security进程中执行）
+      const snapshot = await this.captureSecuritySnapshot();
+      // 本次结果已写入快照，回到前台时不再重复处理
+      this.lastSnapshotAt = snapshot.capturedAt;
+      violations.push(...await this.applySnapshot(snapshot));
 
-      // 处理Android安全违规
-      if (violations.length > 0) {
-        console.warn('⚠️ 检测到Android安全违规:', violations);
-        this.handleSecurityViolations(violations);
-      } else {
+      if (violations.length === 0) {
         console.log('✅ Android安全检查通过');
       }
 
@@ -381,10 +335,187 @@ export class AndroidSecurity extends SecurityInterface {
   }
 
   /**
-   * 处理Android安全违规 - 企业级零容忍政策
-   * 🚨 根据违规严重程度采取相应措施
+   * 批量执行全部Android安全探针
+   * 🔍 启用独立进程模式时由:security进程执行，结果经共享内存返回
+   */
+  async captureSecuritySnapshot() {
+    if (!SecurityModule) {
+      throw new Error('Android原生安全模块不可用');
+    }
+
+    return await SecurityModule.captureSecuritySnapshot();
+  }
+
+  /**
+   * 根据探针快照及原生安全策略评估结果生成Android安全违规列表
+   * 🧭 处置动作与严重程度均由策略决定，策略放行（allow）的探针不计为违规
+   */
+  buildViolationsFromSnapshot(snapshot) {
+    const probeActions = snapshot.policy.probeActions;
+    const detections = [
+      { type: ANDROID_SECURITY_CHECKS.EMULATOR, reason: snapshot.emulatorReason },
+      { type: ANDROID_SECURITY_CHECKS.ROOT, reason: snapshot.rootReason },
+      { type: ANDROID_SECURITY_CHECKS.DEVELOPER_OPTIONS, reason: snapshot.developerOptionsReason },
+      { type: ANDROID_SECURITY_CHECKS.APP_INTEGRITY, reason: 'Android application is in debug mode' }
+    ];
+
+    return detections
+      .map(d => ({ ...d, action: probeActions[ANDROID_POLICY_PROBES[d.type]] }))
+      .filter(d => d.action === ANDROID_POLICY_ACTIONS.BLOCK || d.action === ANDROID_POLICY_ACTIONS.WARN)
+      .map(d => ({
+        type: d.type,
+        severity: d.action === ANDROID_POLICY_ACTIONS.BLOCK
+          ? ANDROID_VIOLATION_SEVERITY.CRITICAL
+          : ANDROID_VIOLATION_SEVERITY.HIGH,
+        failed: true,
+        reason: d.reason,
+        action: d.action,
+        platform: 'android'
+      }));
+  }
+
+  /**
+   * 按快照中的策略评估结果更新安全状态并处理违规
+   * 🧭 检测事件只为策略判定为违规的探针记录，严重程度与违规一致
+   */
+  async applySnapshot(snapshot) {
+    this.activePolicy = snapshot.policy;
+    const violations = this.buildViolationsFromSnapshot(snapshot);
+
+    const detectionEvents = {
+      [ANDROID_SECURITY_CHECKS.EMULATOR]: SECURITY_EVENTS.EMULATOR_DETECTED,
+      [ANDROID_SECURITY_CHECKS.ROOT]: SECURITY_EVENTS.ROOT_DETECTED,
+      [ANDROID_SECURITY_CHECKS.DEVELOPER_OPTIONS]: SECURITY_EVENTS.DEVELOPER_OPTIONS_ENABLED
+    };
+    violations.forEach(v => {
+      if (detectionEvents[v.type]) {
+        this.logSecurityEvent(detectionEvents[v.type], {
+          reason: v.reason,
+          platform: 'android',
+          severity: v.severity,
+          action: v.action
+        });
+      }
+    });
+
+    // 处理Android安全违规
+    if (violations.length > 0) {
+      console.warn('⚠️ 检测到Android安全违规:', violations);
+      await this.handleSecurityViolations(violations, snapshot.policy.decision);
+    }
+
+    return violations;
+  }
+
+  /**
+   * Android安全探针基准测试（仅调试构建，发布构建中原生端直接拒绝）
+   * ⏱️ 对比进程内与:security进程两种模式的探针延迟及主进程掉帧
+   */
+  async benchmarkSecurityProbes(iterations = 20) {
+    try {
+      if (!SecurityModule) {
+        throw new Error('Android原生安全模块不可用');
+      }
+
+      const result = await SecurityModule.benchmarkSecurityProbes(iterations);
+      console.log('⏱️ Android安全探针基准测试结果:', result);
+      return result;
+    } catch (error) {
+      console.error('❌ Android安全探针基准测试失败:', error);
+      return null;
+    }
+  }
+
+  /**
+   * 读取后台复检快照
+   * 🕒 快照由原生WorkManager任务写入，读取时不执行任何探针
    */
-  handleSecurityViolations(violations) {
+  async getSecuritySnapshot() {
+    try {
+      if (!SecurityModule) {
+        throw new Error('Android原生安全模块不可用');
+      }
+
+      return await SecurityModule.getSecuritySnapshot();
+    } catch (error) {
+      console.error('❌ 读取Android安全快照失败:', error);
+      return null;
+    }
+  }
+
+  /**
+   * 应用回到前台时根据后台复检快照同步安全状态
+   * 🔍 仅当快照比上次处理的更新时才触发违规处理，避免重复弹窗
+   */
+  async refreshFromSnapshot() {
+    const snapshot = await this.getSecuritySnapshot();
+    if (!snapshot || snapshot.capturedAt <= this.lastSnapshotAt) {
+      return [];
+    }
+
+    this.lastSnapshotAt = snapshot.capturedAt;
+    this.lastSecurityCheck = new Date(snapshot.capturedAt).toISOString();
+
+    return await this.applySnapshot(snapshot);
+  }
+
+  /**
+   * 策略热替换后按新策略重新评估最近一次快照
+   * 🔄 快照读取时已由原生端按当前策略评估，更严格的租户策略立即生效；
+   * 尚无快照时保留安装接口返回的策略信息
+   */
+  async reevaluateSnapshot() {
+    const snapshot = await this.getSecuritySnapshot();
+    if (!snapshot) {
+      return [];
+    }
+
+    return await this.applySnapshot(snapshot);
+  }
+
+  /**
+   * 安装并热替换Android安全策略
+   * 🔄 租户可在运行时下发不同规则，无需重新发版
+   */
+  async installSecurityPolicy(policy) {
+    try {
+      if (!SecurityModule) {
+        throw new Error('Android原生安全模块不可用');
+      }
+
+      const policyJson = typeof policy === 'string' ? policy : JSON.stringify(policy);
+      this.activePolicy = await SecurityModule.installSecurityPolicy(policyJson);
+      await this.reevaluateSnapshot();
+      return this.activePolicy;
+    } catch (error) {
+      console.error('❌ 安装Android安全策略失败:', error);
+      throw error;
+    }
+  }
+
+  /**
+   * 恢复内置默认Android安全策略
+   */
+  async resetSecurityPolicy() {
+    try {
+      if (!SecurityModule) {
+        throw new Error('Android原生安全模块不可用');
+      }
+
+      this.activePolicy = await SecurityModule.resetSecurityPolicy();
+      await this.reevaluateSnapshot();
+      return this.activePolicy;
+    } catch (error) {
+      console.error('❌ 重置Android安全策略失败:', error);
+      throw error;
+    }
+  }
+
+  /**
+   * 处理Android安全违规
+   * 🚨 按原生安全策略的整体处置（decision）采取相应措施
+   */
+  async handleSecurityViolations(violations, decision) {
     this.violationCount++;
     
     // 记录Android安全违规事件
@@ -393,19 +524,21 @@ export class AndroidSecurity extends SecurityInterface {
       violationCount: this.violationCount,
       platform: 'android',
       timestamp: new Date().toISOString(),
-      enterprisePolicy: 'zero_tolerance'
+      policyId: this.activePolicy?.policyId,
+      policyRevision: this.activePolicy?.revision,
+      decision
     });
 
-    // 分类处理Android违规
-    const criticalViolations = violations.filter(v => v.severity === ANDROID_VIOLATION_SEVERITY.CRITICAL);
-    const highViolations = violations.filter(v => v.severity === ANDROID_VIOLATION_SEVERITY.HIGH);
-
-    if (criticalViolations.length > 0) {
-      // 关键违规：立即阻止Android应用运行
-      this.handleAndroidCriticalViolations(criticalViolations);
-    } else if (highViolations.length > 0) {
-      // 高级违规：警告用户
-      this.handleAndroidHighViolations(highViolations);
+    if (decision === ANDROID_POLICY_ACTIONS.BLOCK) {
+      // 阻止访问：立即阻止Android应用运行
+      this.handleAndroidCriticalViolations(
+        violations.filter(v => v.action === ANDROID_POLICY_ACTIONS.BLOCK)
+      );
+    } else if (decision === ANDROID_POLICY_ACTIONS.WARN) {
+      // 警告：提示用户
+      this.handleAndroidHighViolations(
+        violations.filter(v => v.action === ANDROID_POLICY_ACTIONS.WARN)
+      );
     }
   }
 
@@ -520,7 +653,9 @@ export class AndroidSecurity extends SecurityInterface {
       lastCheck: this.lastSecurityCheck,
       initializationTime: this.initializationTime,
       enterpriseLevel: true,
-      zerotolerancePolicy: true
+      policyId: this.activePolicy?.policyId,
+      policyRevision: this.activePolicy?.revision,
+      policyDecision: this.activePolicy?.decision
     };
   }
 
@@ -118,6 +118,49 @@ class AndroidSecurityManager {
     return await this.androidSecurity.performSecurityChecks();
   }
 
+  /**
+   * 读取Android后台复检快照
+   */
+  async getSecuritySnapshot() {
+    this.ensureInitialized();
+    return await this.androidSecurity.getSecuritySnapshot();
+  }
+
+  /**
+   * 根据后台复检快照同步Android安全状态
+   * 🕒 应用回到前台时调用，替代前台轮询探测
+   */
+  async refreshFromSnapshot() {
+    this.ensureInitialized();
+    return await this.androidSecurity.refreshFromSnapshot();
+  }
+
+  /**
+   * 安装并热替换Android安全策略
+   * 🔄 策略规则由原生引擎编译为决策表，立即生效
+   */
+  async installSecurityPolicy(policy) {
+    this.ensureInitialized();
+    return await this.androidSecurity.installSecurityPolicy(policy);
+  }
+
+  /**
+   * 恢复内置默认Android安全策略
+   */
+  async resetSecurityPolicy() {
+    this.ensureInitialized();
+    return await this.androidSecurity.resetSecurityPolicy();
+  }
+
+  /**
+   * Android安全探针基准测试
+   * ⏱️ 对比进程内与独立:security进程的探针延迟和主进程掉帧
+   */
+  async benchmarkSecurityProbes(iterations) {
+    this.ensureInitialized();
+    return await this.androidSecurity.benchmarkSecurityProbes(iterations);
+  }
+
   /**
    * 获取Android设备信息
    */
@@ -79,8 +79,9 @@ export class SecurityInterface {
   /**
    * 处理安全违规行为（Android企业级标准）
    * @param {Array} violations 违规列表
+   * @param {string} decision 安全策略的整体处置动作
    */
-  handleSecurityViolations(violations) {
+  handleSecurityViolations(violations, decision) {
     throw new Error('handleSecurityViolations() must be implemented by Android security module');
   }
 
@@ -245,3 +246,22 @@ export const ANDROID_VIOLATION_SEVERITY = {
   MEDIUM: 'medium',       // 记录日志
   LOW: 'low'              // 仅提示
 };
+
+/**
+ * Android安全策略处置动作（与原生SecurityPolicy保持一致）
+ */
+export const ANDROID_POLICY_ACTIONS = {
+  ALLOW: 'allow',               // 放行
+  WARN: 'warn_user',            // 警告用户但允许继续
+  BLOCK: 'block_access'         // 立即阻止应用运行
+};
+
+/**
+ * Android安全检查类型到原生策略探针名称的映射
+ */
+export const ANDROID_POLICY_PROBES = {
+  [ANDROID_SECURITY_CHECKS.EMULATOR]: 'emulator',
+  [ANDROID_SECURITY_CHECKS.ROOT]: 'root',
+  [ANDROID_SECURITY_CHECKS.DEVELOPER_OPTIONS]: 'developer_options',
+  [ANDROID_SECURITY_CHECKS.APP_INTEGRITY]: 'debuggable'
+};
@@ -18,6 +18,7 @@ export {
   SecurityInterface,
   SECURITY_EVENTS,
   SECURITY_LEVELS,
+  ANDROID_POLICY_ACTIONS,
   ANDROID_SECURITY_CONFIG,
   getAndroidSecurityConfig
 } from './SecurityInterface';